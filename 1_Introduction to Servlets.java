@@ -47,3 +47,284 @@ Explanation:
 <servlet-mapping> binds it to a URL pattern (/hello).
 When user visits http://localhost:8080/YourApp/hello, it invokes HelloServlet.
 .
+
+==> Async Servlets on Virtual Threads
+By default the container runs service()/doGet() on a thread from its pool (Tomcat: maxThreads = 200).
+If doGet() blocks on a slow database or HTTP call, that thread is stuck, so at most 200 slow requests can run at once.
+
+With asyncSupported = true the servlet can hand the work to a virtual thread (Java 21+) and free the container thread.
+The lifecycle stays the same: the executor is created in init() and shut down in destroy().
+
+  @WebServlet(urlPatterns = "/dashboard", asyncSupported = true)
+  public class DashboardServlet extends HttpServlet {
+
+    private ExecutorService executor;
+
+    public void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public void doGet(HttpServletRequest request, HttpServletResponse response) {
+        String name = (String) request.getSession().getAttribute("username"); // read on the container thread
+        AsyncContext async = request.startAsync();
+        AtomicBoolean finished = new AtomicBoolean();          // whoever sets it first owns the response
+        async.setTimeout(30_000);
+        async.addListener(new AsyncListener() {
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (finished.compareAndSet(false, true)) {
+                    ((HttpServletResponse) event.getAsyncContext().getResponse())
+                            .sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    event.getAsyncContext().complete();
+                }
+            }
+            public void onComplete(AsyncEvent event) {}
+            public void onError(AsyncEvent event) { finished.set(true); }
+            public void onStartAsync(AsyncEvent event) {}
+        });
+
+        executor.submit(() -> {
+            String data = loadDashboard(name);              // blocking call, only parks the virtual thread
+            if (!finished.compareAndSet(false, true)) {
+                return;                                     // timed out meanwhile: response is already gone
+            }
+            try {
+                async.getResponse().getWriter().println(data);
+            } catch (IOException e) {
+                log("Dashboard failed", e);
+            } finally {
+                async.complete();
+            }
+        });
+    }
+
+    public void destroy() {
+        executor.shutdown();
+    }
+}
+
+Explanation:
+startAsync() tells the container not to finish the response when doGet() returns.
+async.complete() sends the response once the virtual thread is done.
+Anything the container keeps in thread-locals (the current request, session lookups, EL/JSP page context) is only valid on the container thread,
+so read session attributes before submitting and pass plain values into the task, as done with "name" above.
+Use async.dispatch("/welcome.jsp") instead of writing directly when the result should be rendered by a JSP.
+After the 30 s timeout the container ends the request in onTimeout(); from then on getResponse() and complete() throw,
+so the "finished" flag makes sure only one side (timeout or task) touches the response.
+
+Every filter on the way to an async servlet must be async-supported too, otherwise startAsync() throws IllegalStateException.
+/dashboard already goes through AuthFilter (3_Filters), so it needs the same flag:
+
+  @WebFilter(urlPatterns = "/dashboard", asyncSupported = true)
+  public class AuthFilter implements Filter { ... }
+
+In web.xml the same is written as <async-supported>true</async-supported> inside <filter> and <servlet>.
+
+==> Writing Small Responses Without PrintWriter
+response.getWriter().println(...) goes through a PrintWriter (synchronized) and a char-to-byte encoder on every call.
+For small fixed text, encode it once and write the bytes through getOutputStream().
+Setting the content length lets the container send headers and body together instead of using chunked encoding.
+
+  public class HelloServlet extends HttpServlet {
+
+    private static final byte[] BODY = "Hello from HelloServlet\n".getBytes(StandardCharsets.UTF_8);
+
+    public void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+}
+
+For larger bodies, Servlet 3.1 non-blocking I/O writes only when the socket can take more data, so no thread waits on a slow client:
+
+  @WebServlet(urlPatterns = "/report", asyncSupported = true)
+  public class ReportServlet extends HttpServlet {
+
+    public void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] body = buildReport().getBytes(StandardCharsets.UTF_8);
+        AsyncContext async = request.startAsync();
+        ServletOutputStream out = response.getOutputStream();
+        response.setContentLength(body.length);
+
+        out.setWriteListener(new WriteListener() {
+            int offset = 0;
+
+            public void onWritePossible() throws IOException {
+                while (out.isReady()) {
+                    if (offset == body.length) {
+                        async.complete();
+                        return;
+                    }
+                    int len = Math.min(8192, body.length - offset);
+                    out.write(body, offset, len);
+                    offset += len;
+                }
+            }
+
+            public void onError(Throwable t) {
+                async.complete();
+            }
+        });
+    }
+}
+
+Explanation:
+isReady() returns false when the socket buffer is full; the container calls onWritePossible() again when it drains.
+Don't mix getWriter() and getOutputStream() in the same response, the container throws IllegalStateException.
+
+==> Serving Static Files (login.html, CSS, images)
+Files that no servlet is mapped to are served by the container's default servlet (url-pattern "/").
+In Tomcat this servlet already supports ETag/If-None-Match (304 Not Modified), Range requests and zero-copy sendfile,
+but the limits are small by default, so most files are still copied through heap buffers.
+
+  <servlet>
+        <servlet-name>default</servlet-name>
+        <servlet-class>org.apache.catalina.servlets.DefaultServlet</servlet-class>
+        <init-param>
+            <param-name>sendfileSize</param-name>
+            <param-value>16</param-value>          <!-- in KB: files >= 16 KB go through FileChannel.transferTo -->
+        </init-param>
+        <init-param>
+            <param-name>useAcceptRanges</param-name>
+            <param-value>true</param-value>        <!-- answer Range requests with 206 Partial Content -->
+        </init-param>
+        <load-on-startup>1</load-on-startup>
+    </servlet>
+
+The cache for small hot files (login.html, header CSS) is configured in META-INF/context.xml:
+
+  <Context>
+        <Resources cachingAllowed="true"
+                   cacheMaxSize="20480"
+                   cacheObjectMaxSize="256"
+                   cacheTtl="60000" />          <!-- sizes in KB, ttl in ms -->
+    </Context>
+
+Explanation:
+Small files come from the in-memory resource cache, large files are sent with sendfile so the bytes never enter the JVM heap.
+Sendfile needs the NIO/NIO2 connector with useSendfile="true" (the default) and does not apply when a filter compresses or wraps the response.
+The default servlet sends an ETag and Last-Modified, so a browser revisiting login.html gets a 304 with no body.
+
+==> Many URL Mappings: One Front Controller with a Route Trie
+For every request the container checks the mapping rules in this order:
+1. Exact match        (/hello)
+2. Longest prefix     (/secure/*)
+3. Extension          (*.jsp)
+4. Default servlet    (/)
+
+With a few mappings this is cheap, but with thousands of <servlet-mapping> entries the lookup shows up in profiles.
+A common fix is to map one front controller to /app/* and resolve the rest yourself with a structure built once in init():
+
+  @WebServlet("/app/*")
+  public class FrontController extends HttpServlet {
+
+    interface Command {
+        void execute(HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException;
+    }
+
+    static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        Command exact;     // "/hello"
+        Command prefix;    // "/secure/*"
+    }
+
+    private final Node root = new Node();
+
+    public void init() {
+        add("/hello", (req, res) -> res.getWriter().println("Hello"));
+        add("/login", (req, res) -> req.getRequestDispatcher("/login.html").forward(req, res));
+        add("/secure/*", (req, res) -> res.getWriter().println("Secure area"));
+        // ... thousands more, loaded from config
+    }
+
+    private void add(String pattern, Command command) {
+        boolean isPrefix = pattern.endsWith("/*");
+        String path = isPrefix ? pattern.substring(0, pattern.length() - 2) : pattern;
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+        }
+        if (isPrefix) node.prefix = command; else node.exact = command;
+    }
+
+    // Walks the path one char at a time: no substrings, no split(), nothing allocated for ASCII paths
+    private Command find(String path) {
+        Node node = root;
+        Command best = null;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            char c = path.charAt(i);
+            if (c == '/' && node.prefix != null) best = node.prefix;   // longest prefix seen so far
+            node = node.children.get(c);
+        }
+        if (node != null) {
+            if (node.exact != null) return node.exact;
+            if (node.prefix != null) return node.prefix;
+        }
+        return best;
+    }
+
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String path = request.getPathInfo();
+        Command command = find(path == null ? "/" : path);
+        if (command == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        } else {
+            command.execute(request, response);
+        }
+    }
+}
+
+Explanation:
+The trie is filled once in init() and only read afterwards, so all request threads can share it without locks.
+Lookup time depends on the URL length, not on how many routes exist.
+Character.valueOf() caches chars below 128, so get(c) does not allocate for normal ASCII URLs.
+
+==> Running the Examples with Embedded Tomcat
+Deploying into a separate Tomcat installation takes seconds and is awkward for tests and benchmarks.
+Tomcat can also run inside your own main() (dependency: org.apache.tomcat.embed:tomcat-embed-core, plus tomcat-embed-jasper for JSP).
+
+  public class EmbeddedMain {
+
+    public static void main(String[] args) throws Exception {
+        long start = System.nanoTime();
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setPort(Integer.getInteger("port", 8080));       // 0 = any free port, useful in tests
+        tomcat.getConnector();                                   // default HTTP/1.1 NIO connector
+
+        Context ctx = tomcat.addContext("", new File(".").getAbsolutePath());
+
+        Tomcat.addServlet(ctx, "LifeCycleServlet", new LifeCycleServlet());
+        ctx.addServletMappingDecoded("/lifecycle", "LifeCycleServlet");
+
+        Tomcat.addServlet(ctx, "HelloServlet", new HelloServlet());
+        ctx.addServletMappingDecoded("/hello", "HelloServlet");
+
+        FilterDef auth = new FilterDef();
+        auth.setFilterName("AuthFilter");
+        auth.setFilter(new AuthFilter());
+        ctx.addFilterDef(auth);
+        FilterMap authMap = new FilterMap();
+        authMap.setFilterName("AuthFilter");
+        authMap.addURLPattern("/dashboard");
+        ctx.addFilterMap(authMap);
+
+        ctx.addApplicationListener(SessionMonitor.class.getName());
+
+        tomcat.start();
+        System.out.printf("Started in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        tomcat.getServer().await();
+    }
+}
+
+Explanation:
+addContext() creates a bare context: ContextConfig never runs, so there is no web.xml parsing, no JAR scanning and no annotation scan,
+and startup is mostly just opening the port.
+Servlets, filters and listeners are registered in code, exactly like <servlet>, <filter> and <listener> in web.xml.
+Sessions and cookies work as usual, because they are handled by the same Tomcat classes.
+For JSP pages use tomcat.addWebapp(...) with precompiled JSPs (jspc), so the first request doesn't wait for the JSP compiler.
+In JUnit tests start one Tomcat on port 0 per test class, read the real port from tomcat.getConnector().getLocalPort(), and call tomcat.stop() afterwards.
@@ -110,6 +110,55 @@ session.setMaxInactiveInterval(60 * 10); // 10 minutes
 | `invalidate()`   | Logs out user                              |
 | Session timeout  | Auto logout after idle time                |
 
+## **6. Session IDs Under Load**
+
+Every new session needs a **random, unguessable ID** from a `SecureRandom`. Tomcat's default generator doesn't use one shared, locked instance: `SessionIdGeneratorBase` keeps a **pool** of `SecureRandom`s, and when all of them are busy it creates and seeds a new one **on the request thread**. That's fine for platform threads, but during a login burst (or with virtual threads, where thousands of requests run at once) the pool keeps growing, and each new instance pays for seeding. The default IDs are also 32 hex characters for 16 bytes.
+
+A custom generator can create a **fixed** set of DRBGs once at startup and print the same 128 bits in a shorter form. In Tomcat the generator is pluggable (`META-INF/context.xml`):
+
+```xml
+<Context>
+    <Manager>
+        <SessionIdGenerator className="com.example.StripedSessionIdGenerator"
+                            sessionIdLength="16" />
+    </Manager>
+</Context>
+```
+
+```java
+public class StripedSessionIdGenerator extends SessionIdGeneratorBase {
+
+    // Fixed number of DRBGs, created and seeded once: no seeding on the request path, whatever the thread count
+    private static final SecureRandom[] STRIPES = new SecureRandom[2 * Runtime.getRuntime().availableProcessors()];
+
+    static {
+        try {
+            for (int i = 0; i < STRIPES.length; i++) {
+                STRIPES[i] = SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+                STRIPES[i].nextBytes(new byte[1]);               // force the initial seed now, not on first login
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String generateSessionId(String route) {
+        byte[] bytes = new byte[getSessionIdLength()];          // 16 bytes = 128 random bits
+        // DRBG is thread-safe; spreading threads over the stripes keeps its internal lock uncontended
+        int stripe = (int) Math.floorMod(Thread.currentThread().threadId(), (long) STRIPES.length);
+        STRIPES[stripe].nextBytes(bytes);
+        String id = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);   // always 22 chars, URL-safe
+        return (route == null || route.isEmpty()) ? id : id + '.' + route;
+    }
+}
+```
+
+* **Low contention, fixed cost** – the number of generators is set by the CPU count, not by the thread count. A virtual thread per request doesn't create and seed a new DRBG (a `ThreadLocal<SecureRandom>` would, on every new thread), and two threads only share a lock when they hash to the same stripe.
+* **Entropy** – 16 random bytes = 128 bits. Guessing a live ID with 1 million active sessions still needs about 2^108 tries.
+* **Collisions** – with n sessions the chance of any duplicate is about n² / 2^129; for one billion sessions that's around 10^-21. The session manager also rejects a duplicate ID and generates a new one.
+* **Fixed length** – URL-safe Base64 without padding, so the ID is always 22 characters (`A-Z a-z 0-9 - _`) and safe in cookies and URLs.
+
 
 +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
 +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
@@ -240,6 +289,380 @@ public class LogoutServlet extends HttpServlet {
 * JSP (`welcome.jsp`) checks session and greets user
 * Logout servlet clears session
 
+### 6. **Reading one parameter from a big form**
+
+The first `request.getParameter()` call makes the container **decode every field** of the query string and form body into a map, even if you only need `username`. For a form with hundreds of fields, most of that work is wasted.
+
+For GET requests you can scan the raw query string yourself and decode only the value you need:
+
+```java
+public final class Params {
+    private Params() {}
+
+    // Returns the first value of "name" in the query string, decoding only that value
+    public static String first(HttpServletRequest request, String name) {
+        String query = request.getQueryString();
+        if (query == null) return null;
+
+        int start = 0;
+        while (start < query.length()) {
+            int end = query.indexOf('&', start);
+            if (end < 0) end = query.length();
+
+            int eq = query.indexOf('=', start);
+            int keyEnd = (eq < 0 || eq > end) ? end : eq;
+            if (keyEnd - start == name.length() && query.startsWith(name, start)) {
+                if (keyEnd == end) return "";
+                return URLDecoder.decode(query.substring(keyEnd + 1, end), StandardCharsets.UTF_8);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+}
+```
+
+```java
+String username = Params.first(request, "username");
+```
+
+* Only **key lengths and offsets** are compared; nothing else is decoded or copied.
+* Keys are compared raw, so use plain ASCII parameter names (`username`, not encoded names).
+* For **POST** forms keep using `getParameter()` — reading the body yourself with `getInputStream()` means the container can no longer parse it. Instead, limit the damage with connector settings in `server.xml`: `maxParameterCount="100"` and `maxPostSize="65536"`.
+
+### 7. **Real passwords: hashing off the request thread**
+
+The demo `LoginServlet` accepts any username. Real logins check a **slow password hash** (PBKDF2/bcrypt, 50–200 ms on purpose). If that runs on the request thread, a burst of logins can use up every container thread and the dashboard stops responding too.
+
+The fix: a small **bounded pool** only for hashing, an async servlet, and a fast `503` when the pool is full.
+
+```java
+public interface CredentialVerifier {
+    boolean verify(String username, char[] password);
+}
+```
+
+```java
+public class Pbkdf2Verifier implements CredentialVerifier {
+    private final UserStore users;   // loads salt + stored hash for a username
+
+    public Pbkdf2Verifier(UserStore users) { this.users = users; }
+
+    public boolean verify(String username, char[] password) {
+        StoredHash stored = users.find(username);
+        if (stored == null) return false;
+        try {
+            PBEKeySpec spec = new PBEKeySpec(password, stored.salt(), stored.iterations(), 256);
+            byte[] hash = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+            return MessageDigest.isEqual(hash, stored.hash());   // constant-time compare
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
+```
+
+```java
+@WebServlet(urlPatterns = "/LoginServlet", asyncSupported = true)
+public class LoginServlet extends HttpServlet {
+    private static final long CACHE_TTL_MS = 60_000;
+    private static final int CACHE_MAX_ENTRIES = 100_000;
+
+    private ThreadPoolExecutor hashPool;
+    private ScheduledExecutorService cacheCleaner;
+    private CredentialVerifier verifier;
+    private final byte[] cacheSalt = new byte[16];
+    private final ConcurrentHashMap<String, Long> recentLogins = new ConcurrentHashMap<>();
+
+    public void init() throws ServletException {
+        verifier = (CredentialVerifier) getServletContext().getAttribute("credentialVerifier");
+        if (verifier == null) {
+            throw new ServletException("No credentialVerifier in the ServletContext");   // fail at deploy, not at first login
+        }
+        new SecureRandom().nextBytes(cacheSalt);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        hashPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),       // admission control: small queue
+                new ThreadPoolExecutor.AbortPolicy());       // full -> RejectedExecutionException
+
+        cacheCleaner = Executors.newSingleThreadScheduledExecutor();
+        cacheCleaner.scheduleAtFixedRate(() -> {
+            long now = System.currentTimeMillis();
+            recentLogins.values().removeIf(expires -> expires < now);
+        }, 1, 1, TimeUnit.MINUTES);
+    }
+
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String username = request.getParameter("username");
+        String password = request.getParameter("password");
+        if (username == null || password == null) {
+            response.sendRedirect("login.html");
+            return;
+        }
+
+        String key = cacheKey(username, password);
+        Long expires = recentLogins.get(key);
+        if (expires != null && expires > System.currentTimeMillis()) {
+            loggedIn(request, response, username);           // recently verified, skip the hash
+            return;
+        }
+
+        AsyncContext async = request.startAsync();
+        try {
+            hashPool.execute(() -> {
+                HttpServletRequest req = (HttpServletRequest) async.getRequest();
+                HttpServletResponse res = (HttpServletResponse) async.getResponse();
+                try {
+                    if (verifier.verify(username, password.toCharArray())) {
+                        if (recentLogins.size() < CACHE_MAX_ENTRIES) {     // bounded: when full, just don't cache
+                            recentLogins.put(key, System.currentTimeMillis() + CACHE_TTL_MS);
+                        }
+                        loggedIn(req, res, username);
+                    } else {
+                        res.sendRedirect("login.html");
+                    }
+                } catch (IOException e) {
+                    log("Login failed", e);
+                } catch (RuntimeException e) {
+                    log("Login failed", e);                  // e.g. verifier misconfigured: 500, not an empty 200
+                    try {
+                        if (!res.isCommitted()) res.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                    } catch (IOException ignored) {
+                        // client is gone
+                    }
+                } finally {
+                    async.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            async.complete();
+        }
+    }
+
+    private void loggedIn(HttpServletRequest request, HttpServletResponse response, String username)
+            throws IOException {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            request.changeSessionId();                       // pre-login session: new ID (see section 8)
+        } else {
+            session = request.getSession();
+        }
+        session.setAttribute("username", username);
+        response.sendRedirect("welcome.jsp");
+    }
+
+    // Fast salted digest: the cache never holds the password itself
+    private String cacheKey(String username, String password) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(cacheSalt);
+            md.update(username.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void destroy() {
+        hashPool.shutdown();
+        cacheCleaner.shutdown();
+    }
+}
+```
+
+* The hash pool has **one thread per core** — hashing is CPU-bound, more threads don't help.
+* When the queue is full, users get `503` + `Retry-After` right away instead of waiting behind 1000 other logins.
+* If the hash task fails (for example `Pbkdf2Verifier` throws `IllegalStateException`), the user gets a `500` before `complete()`. A blank `200` would look like a successful login.
+* Container threads are free while hashing, so `DashboardServlet` keeps serving logged-in users.
+* Only **successful** checks are cached, for a short time; a wrong password always goes through the slow hash. A scheduled task removes expired entries every minute, and the cache never grows beyond `CACHE_MAX_ENTRIES`.
+* `init()` fails if no `credentialVerifier` was put into the context (e.g. by a startup listener), so a wrong setup shows up at deploy time instead of as an error on the first login.
+
+### 8. **Session fixation: rotate the ID at login**
+
+If a session already exists before login (e.g. a visitor browsed the shop first), an attacker who planted that session ID could use it after the user logs in. So the **ID must change at login**.
+
+The old way was `session.invalidate()` + `request.getSession()` + copying every attribute back. That fires `sessionDestroyed`, `sessionCreated` and one attribute event per copied attribute. Since Servlet 3.1 there is a single call for this:
+
+```java
+HttpSession session = request.getSession(false);
+if (session != null) {
+    request.changeSessionId();            // same session object, same attributes, new ID
+} else {
+    session = request.getSession();       // brand-new session already has a fresh ID
+}
+session.setAttribute("username", username);
+response.sendRedirect("welcome.jsp");
+```
+
+* `changeSessionId()` only re-keys the session in the container's session store. Attributes stay where they are, nothing is copied.
+* No destroy/create events and no attribute events are fired — only **one** `HttpSessionIdListener` event:
+
+```java
+@WebListener
+public class SessionIdAudit implements HttpSessionIdListener {
+    public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+        // Only a prefix: a full session ID in a log file is as good as a stolen login
+        System.out.println("Session ID changed: " + prefix(oldSessionId) + " -> " + prefix(event.getSession().getId()));
+    }
+
+    private static String prefix(String id) {
+        return id.substring(0, Math.min(6, id.length())) + "...";
+    }
+}
+```
+
+* The container sends the new `JSESSIONID` cookie automatically.
+* `LoginServlet.loggedIn()` in section 7 uses exactly this block. It runs on both paths, the cached login and the async one after the password check, so both are fixation-safe.
+
+### 9. **Load testing the login → welcome → logout flow**
+
+To see how the whole flow behaves under load, drive it like real users do: each journey has its **own session cookie**, logs in, opens `welcome.jsp`, thinks for a while, then logs out.
+
+An important detail is **coordinated omission**. If the server stalls for 2 seconds, a naive load tester also stops sending requests, so the stall shows up as one slow request instead of hundreds. To avoid this, every journey has a **planned start time**, and latency is measured from that planned time, not from when the request actually went out.
+
+```java
+// Needs org.hdrhistogram:HdrHistogram on the classpath
+public class LoginFlowBenchmark {
+    static final String BASE = System.getProperty("base", "http://localhost:8080/YourApp/");
+    static final int USERS = Integer.getInteger("users", 100);            // distinct usernames
+    static final String PASSWORD = System.getProperty("password", "secret"); // same test password for user0..userN
+    static final int RATE = Integer.getInteger("rate", 200);              // new journeys per second
+    static final int CONCURRENCY = Integer.getInteger("concurrency", 1000); // max journeys in flight
+    static final int SECONDS = Integer.getInteger("seconds", 60);
+    static final long THINK_MS = Long.getLong("thinkMs", 500);
+    static final String LABEL = System.getProperty("label", "local");      // e.g. the git commit being tested
+
+    static final List<String> STEP_NAMES = List.of("login", "welcome", "logout");
+    static final Map<String, Histogram> LATENCY = new ConcurrentHashMap<>();
+    static final Map<String, LongAdder> ERRORS = new ConcurrentHashMap<>();
+
+    static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)                    // measure each step separately
+            .build();
+    static final Semaphore IN_FLIGHT = new Semaphore(CONCURRENCY);
+
+    public static void main(String[] args) throws Exception {
+        for (String step : STEP_NAMES) {
+            LATENCY.put(step, new ConcurrentHistogram(3));
+            ERRORS.put(step, new LongAdder());
+        }
+        long interval = 1_000_000_000L / RATE;
+        long start = System.nanoTime();
+        long end = start + SECONDS * 1_000_000_000L;
+
+        // Open model: every journey gets its own virtual thread at its planned time,
+        // so a slow journey never delays the start of the next one
+        try (ExecutorService journeys = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+            for (int i = 0; intended < end; i++, intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                int user = i % USERS;
+                long planned = intended;
+                journeys.execute(() -> journey(user, planned));
+            }
+        }
+        report(SECONDS);
+    }
+
+    static void journey(int user, long intended) {
+        try {
+            IN_FLIGHT.acquire();                  // waiting here (too much concurrency) counts as login latency
+        } catch (InterruptedException e) {
+            return;
+        }
+        try {
+            // login is timed from the planned start, so a backlog shows up as latency
+            String form = "username=user" + user + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+            HttpResponse<Void> login = send("login", HttpRequest.newBuilder(URI.create(BASE + "LoginServlet"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form)));
+            String session = sessionCookie(login);
+            if (session == null) return;          // login failed, already counted as an error
+            record("login", intended);
+
+            long start = System.nanoTime();
+            if (send("welcome", HttpRequest.newBuilder(URI.create(BASE + "welcome.jsp"))
+                    .header("Cookie", session)) == null) return;
+            record("welcome", start);
+
+            Thread.sleep(THINK_MS);
+            start = System.nanoTime();
+            if (send("logout", HttpRequest.newBuilder(URI.create(BASE + "LogoutServlet"))
+                    .header("Cookie", session)) == null) return;
+            record("logout", start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            IN_FLIGHT.release();
+        }
+    }
+
+    // Returns null and counts an error for exceptions and 4xx/5xx answers
+    static HttpResponse<Void> send(String step, HttpRequest.Builder request) {
+        try {
+            HttpResponse<Void> response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                ERRORS.get(step).increment();
+                return null;
+            }
+            return response;
+        } catch (Exception e) {
+            ERRORS.get(step).increment();
+            return null;
+        }
+    }
+
+    // Called only after the step is known to have succeeded, so failures never reach the histogram
+    static void record(String step, long startNanos) {
+        LATENCY.get(step).recordValue(System.nanoTime() - startNanos);
+    }
+
+    static String sessionCookie(HttpResponse<Void> login) {
+        if (login == null) return null;
+        for (String header : login.headers().allValues("Set-Cookie")) {
+            if (header.startsWith("JSESSIONID=")) {
+                int end = header.indexOf(';');
+                return end < 0 ? header : header.substring(0, end);   // own JSESSIONID per journey
+            }
+        }
+        ERRORS.get("login").increment();          // 3xx without a session is a failed login too
+        return null;
+    }
+
+    static void report(int seconds) {
+        System.out.println("label,step,count,errors,per_sec,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        for (String step : STEP_NAMES) {
+            Histogram h = LATENCY.get(step);
+            System.out.printf("%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    LABEL, step, h.getTotalCount(), ERRORS.get(step).sum(), h.getTotalCount() / (double) seconds,
+                    h.getValueAtPercentile(50) / 1e6, h.getValueAtPercentile(90) / 1e6,
+                    h.getValueAtPercentile(99) / 1e6, h.getValueAtPercentile(99.9) / 1e6,
+                    h.getMaxValue() / 1e6);
+        }
+    }
+}
+```
+
+Run it against a deployed app (same machine, loopback):
+
+```
+java -Drate=1000 -Dconcurrency=2000 -Dseconds=120 -DthinkMs=300 -Dlabel=$(git rev-parse --short HEAD) LoginFlowBenchmark.java >> results.csv
+```
+
+* Journeys follow a fixed schedule (`rate` per second), each on its own virtual thread. A journey that takes longer than the gap between starts (think time included) doesn't push later journeys back, so measured latency doesn't creep up just because the run is long.
+* `concurrency` caps journeys in flight. Keep it above `rate × journey time` (for example 1000/s × 0.4 s = 400); if the cap is hit, the wait is counted as login latency instead of being hidden.
+* Failed requests (exceptions, 4xx/5xx, a login without `JSESSIONID`) are counted in the `errors` column and not mixed into the latency numbers. Latency is recorded only after a step has passed all its checks, including the session-cookie check for login.
+* The target is the async `LoginServlet` from section 7, which needs `username` **and** `password` (without a password it just redirects to `login.html`, and every login would count as an error). Create test users `user0` … `user{users-1}` with the same password and pass it with `-Dpassword=...`.
+* Output is **CSV with the commit as label**, so runs from different commits can be compared side by side.
+* For repeatable numbers: warm up first (throw away a 30 s run), use the same `rate/concurrency/thinkMs`, and don't run anything else on the machine.
+
 +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
 +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
 +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
@@ -410,6 +833,84 @@ public class CheckRememberedUserServlet extends HttpServlet {
 
 ---
 
+### ⚡ Same cookie har request pe? Header ek baar bana lo
+
+`SetCookieServlet` aur `LoginWithCookieServlet` har request pe naya `Cookie` object banate hain — naam, path aur maxAge hamesha same hote hain. Phir container har baar poora `Set-Cookie` header text banata hai, including `Expires` date ka calculation.
+
+Sirf **value** badalti hai, to baaki header ek baar bana ke rakh lo:
+
+```java
+public final class CookieTemplate {
+    // Not RFC_1123_DATE_TIME: that one writes "3 Jun", cookie dates need two digits ("03 Jun")
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private final String prefix;        // "username="
+    private final String suffix;        // "; Max-Age=604800; Path=/; HttpOnly"
+    private final long maxAgeSeconds;
+
+    // Expires string: second me ek hi baar refresh hota hai, sab threads share karte hain
+    private volatile long expiresSecond;
+    private volatile String expires;
+
+    public CookieTemplate(String name, long maxAgeSeconds, String path) {
+        this.prefix = name + "=";
+        this.suffix = "; Max-Age=" + maxAgeSeconds + "; Path=" + path + "; HttpOnly";
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    public void add(HttpServletResponse response, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cookie value is null");   // caller decide kare: skip ya delete
+        }
+        response.addHeader("Set-Cookie", prefix + encode(value) + suffix + "; Expires=" + expires());
+    }
+
+    private String expires() {
+        long now = System.currentTimeMillis() / 1000;
+        if (now != expiresSecond) {
+            expires = HTTP_DATE.format(Instant.ofEpochSecond(now + maxAgeSeconds));
+            expiresSecond = now;
+        }
+        return expires;
+    }
+
+    // Cookie value me space, ; , " allowed nahi hain; % aur + ko reader URLDecoder se badal deta hai
+    private static String encode(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c >= 0x7f || c == ';' || c == ',' || c == '"' || c == '\\' || c == '%' || c == '+') {
+                return URLEncoder.encode(value, StandardCharsets.UTF_8);
+            }
+        }
+        return value;                   // normal case: koi copy nahi
+    }
+}
+```
+
+```java
+public class LoginWithCookieServlet extends HttpServlet {
+    private static final CookieTemplate REMEMBER = new CookieTemplate("username", 7 * 24 * 60 * 60, "/");
+
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String username = request.getParameter("username");
+        if (username != null && "yes".equals(request.getParameter("remember"))) {
+            REMEMBER.add(response, username);        // sirf value + ek concat
+        }
+        // ...
+    }
+}
+```
+
+* Name, path, `Max-Age` wala hissa **startup pe ek baar** banta hai.
+* `Expires` (purane browsers ke liye) har second me sirf ek baar format hota hai, har request pe nahi. Do threads ek saath refresh karein to bhi koi dikkat nahi — dono same string banayenge.
+* Har `add()` me bas ek String concat hota hai; `Cookie` object aur container ka formatting code dono skip ho jaate hain.
+* Value jo bhi encode karo, read karte waqt `URLDecoder.decode(c.getValue(), UTF_8)` se decode karna mat bhoolo. Isi liye `%` aur `+` bhi encode hote hain: warna `a+b` padhne pe `a b` ban jaata aur `100%` pe decoder exception deta. Jo value bina encode ke jaati hai, decode ke baad bhi wahi rehti hai.
+* `null` value pe `add()` saaf `IllegalArgumentException` deta hai; parameter missing ho sakta hai to call se pehle check karo.
+
+---
+
 ### 🔐 Summary:
 
 * **Cookies** store user data in the browser (client-side)
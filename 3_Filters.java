@@ -97,6 +97,489 @@ If multiple filters are configured for the same resource, they are executed in t
 
 ---
 
+### **6. Response Caching Filter for Anonymous Pages**
+
+Pages like `login.html` or the "please login" branch of `CheckRememberedUserServlet` return **the same bytes to every visitor without a session or cookies**. A filter can store the finished response once and answer later requests **without calling the servlet at all**.
+
+```java
+@WebFilter({"/login.html", "/CheckRememberedUserServlet"})
+public class PageCacheFilter implements Filter {
+    private static final long TTL_MS = 30_000;
+    private static final int MAX_ENTRIES = 1_000;
+    private static final long RENDER_WAIT_MS = 2_000;
+    // Set by the container or by this filter on every response, so not stored with the page
+    private static final Set<String> NOT_REPLAYED =
+            Set.of("content-type", "content-length", "etag", "vary", "date", "transfer-encoding");
+
+    static final class CachedPage {
+        final byte[] body;
+        final String contentType;
+        final Map<String, List<String>> headers;      // Cache-Control, Content-Language, ... set by the servlet
+        final String etag;
+        final long expiresAt;
+
+        CachedPage(byte[] body, String contentType, Map<String, List<String>> headers) {
+            this.body = body;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            this.expiresAt = System.currentTimeMillis() + TTL_MS;
+        }
+    }
+
+    // A completed future is a cached page; an unfinished one means "someone is rendering it right now"
+    private final ConcurrentHashMap<String, CompletableFuture<CachedPage>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public void init(FilterConfig config) {
+        config.getServletContext().setAttribute("pageCacheHits", hits);
+        config.getServletContext().setAttribute("pageCacheMisses", misses);
+    }
+
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse res = (HttpServletResponse) response;
+        res.addHeader("Vary", "Accept-Language");    // part of the key, so browsers/CDNs must key on it too
+
+        // Only anonymous GETs are shared between users. Any cookie (e.g. "username" for
+        // CheckRememberedUserServlet) can personalize the page, so those requests skip the cache too.
+        if (!"GET".equals(req.getMethod()) || req.getSession(false) != null || req.getHeader("Cookie") != null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = req.getRequestURI() + '?' + req.getQueryString() + '|' + req.getHeader("Accept-Language");
+        CompletableFuture<CachedPage> mine = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = cache.get(key);
+        if (existing == null) {
+            if (cache.size() >= MAX_ENTRIES) removeExpired();
+            if (cache.size() >= MAX_ENTRIES) {       // full of live pages: serve this one uncached
+                chain.doFilter(request, response);
+                return;
+            }
+            existing = cache.putIfAbsent(key, mine);
+        }
+
+        if (existing == null) {                      // miss: this request renders, the others wait for it
+            misses.incrementAndGet();
+            CachedPage page = null;
+            try {
+                page = render(req, res, chain);
+            } finally {
+                mine.complete(page);
+                if (page == null) cache.remove(key, mine);
+            }
+            return;
+        }
+
+        CachedPage page;
+        try {
+            page = existing.get(RENDER_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            page = null;                             // render hangs: don't queue behind it, render uncached
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            page = null;
+        }
+        if (page == null) {                          // not cacheable (redirect, error, session created) or too slow
+            chain.doFilter(request, response);
+        } else if (page.expiresAt < System.currentTimeMillis()) {
+            cache.remove(key, existing);
+            doFilter(request, response, chain);      // expired: render again once
+        } else {
+            hits.incrementAndGet();
+            send(req, res, page);
+        }
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(f -> {
+            CachedPage page = f.getNow(null);       // null while still rendering: keep it
+            return page != null && page.expiresAt < now;
+        });
+    }
+
+    private CachedPage render(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+        throws IOException, ServletException {
+
+        CaptureWrapper wrapper = new CaptureWrapper(res);
+        chain.doFilter(req, wrapper);
+        byte[] body = wrapper.toBytes();
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || req.getSession(false) != null
+                || res.containsHeader("Set-Cookie")) {
+            res.getOutputStream().write(body);       // pass through, don't cache
+            return null;
+        }
+        CachedPage page = new CachedPage(body, wrapper.getContentType(), copyHeaders(res));
+        res.setHeader("ETag", page.etag);
+        res.getOutputStream().write(body);
+        return page;
+    }
+
+    // Headers go straight to the real response (the wrapper only captures the body), so read them back from there
+    private static Map<String, List<String>> copyHeaders(HttpServletResponse res) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : res.getHeaderNames()) {
+            if (!NOT_REPLAYED.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(res.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private void send(HttpServletRequest req, HttpServletResponse res, CachedPage page) throws IOException {
+        page.headers.forEach((name, values) -> {
+            res.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) res.addHeader(name, values.get(i));
+        });
+        res.setHeader("ETag", page.etag);
+        if (page.etag.equals(req.getHeader("If-None-Match"))) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);   // browser already has it
+            return;
+        }
+        res.setContentType(page.contentType);
+        res.setContentLength(page.body.length);
+        res.getOutputStream().write(page.body);
+    }
+
+    public void destroy() {}
+
+    // Collects whatever the servlet writes, through getWriter() or getOutputStream()
+    static final class CaptureWrapper extends HttpServletResponseWrapper {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private PrintWriter writer;
+
+        CaptureWrapper(HttpServletResponse response) { super(response); }
+
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                public void write(int b) { buffer.write(b); }
+                public void write(byte[] b, int off, int len) { buffer.write(b, off, len); }
+                public boolean isReady() { return true; }
+                public void setWriteListener(WriteListener listener) { throw new UnsupportedOperationException(); }
+            };
+        }
+
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(buffer, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        byte[] toBytes() {
+            if (writer != null) writer.flush();
+            return buffer.toByteArray();
+        }
+    }
+}
+```
+
+* **Hit** – the servlet doesn't run; the stored bytes are written directly.
+* **If-None-Match** matches the ETag → `304 Not Modified`, no body at all.
+* **Concurrent misses** – only the first request renders, and the rest wait on its future and reuse the result. They wait at most `RENDER_WAIT_MS`. If that render hangs, the waiting requests render the page themselves (uncached) instead of blocking a container thread indefinitely.
+* **Headers** the servlet set (`Cache-Control`, `Content-Language`, ...) are stored with the page and replayed on hits, so a hit looks exactly like a miss. A response that sets a cookie is never cached.
+* `Accept-Language` is part of the key, so every response also sends `Vary: Accept-Language`. Without it, a browser cache or CDN could serve the German page to an English visitor.
+* Hit ratio = `pageCacheHits / (pageCacheHits + pageCacheMisses)`, both available as context attributes for a status page.
+* Never cache anything that depends on a user — that's why requests **with a session or any cookie** skip the cache. Otherwise the first visitor with a `username` cookie would get "Welcome back, alice!" cached and shown to everybody.
+* The map holds at most `MAX_ENTRIES` pages. When it's full, expired pages are removed first; if it's still full, new URLs are served without caching. This way random query strings or `Accept-Language` values can't make the map grow without limit.
+
+---
+
+### **7. Overload Protection Filter (Adaptive Concurrency Limit)**
+
+If the database behind `DashboardServlet` slows down, requests pile up: every thread waits, the queue grows, and **all** pages get slow. It's better to reject some requests **quickly** than to make every request wait.
+
+This filter counts requests **in flight** per servlet mapping and adjusts a limit with a **gradient** against the route's own no-load latency (the same idea as TCP Vegas / Netflix's gradient limiter):
+
+* The filter keeps the fastest window it has seen as the **baseline** (`noLoadRtt`). This is what the route costs when nothing waits in a queue, whether that is 5 ms or 500 ms.
+* Once per **window** (at least 100 ms, two baseline round-trips and 10 responses), it compares the window's average latency with the baseline: `gradient = min(1, 1.5 × noLoadRtt / avgRtt)`
+* `limit = limit × gradient + √limit`. If latency stays near the baseline, the limit grows by about √limit per window. If requests start queueing, it shrinks, at most **once per window** and never below half.
+* Over the limit → immediate `503` with `Retry-After`
+
+```java
+@WebFilter(urlPatterns = "/*", asyncSupported = true, initParams = {
+    @WebInitParam(name = "initialLimit", value = "20")
+})
+public class ConcurrencyLimitFilter implements Filter {
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 1000;
+    private static final double TOLERANCE = 1.5;                        // 50% above baseline still counts as "no queue"
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final int BASELINE_RESET_WINDOWS = 100;              // re-measure baseline now and then
+
+    static final class Route {
+        final AtomicInteger inFlight = new AtomicInteger();
+        private volatile int limit;
+
+        // Window state, guarded by "this"
+        private long windowStart = System.nanoTime();
+        private long windowRttSum;
+        private int windowSamples;
+        private int windowMaxInFlight;
+        private long noLoadRtt = Long.MAX_VALUE;
+        private int windows;
+
+        Route(int initialLimit) { this.limit = initialLimit; }
+
+        boolean tryAcquire() {
+            int current = inFlight.incrementAndGet();
+            if (current > limit) {
+                inFlight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        void release(long rttNanos) {
+            int inFlightBefore = inFlight.getAndDecrement();
+            synchronized (this) {
+                windowRttSum += rttNanos;
+                windowSamples++;
+                windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+
+                long now = System.nanoTime();
+                long windowLength = Math.max(MIN_WINDOW_NANOS, noLoadRtt == Long.MAX_VALUE ? 0 : 2 * noLoadRtt);
+                if (now - windowStart < windowLength || windowSamples < MIN_WINDOW_SAMPLES) {
+                    return;                                             // one limit change per window, not per response
+                }
+
+                long avgRtt = windowRttSum / windowSamples;
+                if (++windows % BASELINE_RESET_WINDOWS == 0) {
+                    noLoadRtt = avgRtt;                                 // baseline may have moved (new code, new DB)
+                } else {
+                    noLoadRtt = Math.min(noLoadRtt, avgRtt);
+                }
+
+                double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRtt / avgRtt));
+                boolean appLimited = windowMaxInFlight < limit / 2;      // light load says nothing about a higher limit
+                if (gradient < 1.0 || !appLimited) {
+                    int next = (int) (limit * gradient + Math.sqrt(limit));
+                    limit = Math.max(MIN_LIMIT, Math.min(MAX_LIMIT, next));
+                }
+
+                windowStart = now;
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+    private int initialLimit;
+
+    public void init(FilterConfig config) {
+        initialLimit = Integer.parseInt(config.getInitParameter("initialLimit"));
+    }
+
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse res = (HttpServletResponse) response;
+        // One route per servlet mapping ("/dashboard", "*.jsp", "/" for static files and 404s),
+        // not per URL, so the map can't grow with every path a client invents
+        String pattern = req.getHttpServletMapping().getPattern();
+        Route route = routes.computeIfAbsent(pattern, p -> new Route(initialLimit));
+
+        if (!route.tryAcquire()) {
+            res.setHeader("Retry-After", "1");
+            res.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);   // reject in microseconds
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                route.release(System.nanoTime() - start);
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (req.isAsyncStarted()) {
+                // Async servlet: doFilter() returned but the work is still running
+                req.getAsyncContext().addListener(new AsyncListener() {
+                    public void onComplete(AsyncEvent event) { release.run(); }   // also fires after timeout/error
+                    public void onTimeout(AsyncEvent event) {}
+                    public void onError(AsyncEvent event) {}
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    public void destroy() {}
+}
+```
+
+* Limits are kept **per servlet mapping** (`getHttpServletMapping().getPattern()`), so a slow `/dashboard` doesn't block `/login`.
+* `asyncSupported = true` is required because the filter covers `/*`, including the async `DashboardServlet`. For async requests the slot is released when the `AsyncContext` completes, so in-flight count and latency cover the real work, not just the time until `startAsync()` returned.
+* Put this filter **first** in `web.xml` so rejected requests don't run any other filter.
+* A route that is simply slow is **not** treated as overloaded: with a 500 ms baseline, 500 ms responses give `gradient = 1`. Only latency that rises **above its own baseline**, which means requests are waiting, lowers the limit.
+* To test: add `Thread.sleep(500)` to `DashboardServlet` and send light load (fewer concurrent requests than the limit). Every request should get `200` in about 500 ms, and no `503` should appear. Then model a small DB pool: wrap the sleep in a `Semaphore(10)`, and send 100 concurrent requests. Latency for the route rises above the baseline, and the limit settles around 20: the 10 DB connections plus √limit of headroom. Accepted requests keep a p99 of about 1 s instead of growing with the queue, and the extra ones get `503` immediately.
+
+---
+
+### **8. Profiling Filters, Servlets and JSPs with JFR Events**
+
+Java Flight Recorder (`-XX:StartFlightRecording`) shows GC and socket activity, but it can't tell which time belongs to `AuthFilter`, `LoginServlet.doPost` or `welcome.jsp`. Custom **JFR events** add that information. They cost almost nothing when recording is off: `isEnabled()` is a cheap check, so the filter skips all extra work.
+
+```java
+@Name("com.example.Request")
+@Label("Servlet Request")
+@Category({"Web", "Request"})
+public class RequestEvent extends jdk.jfr.Event {
+    @Label("Phase") String phase;            // "request", "forward", "include"
+    @Label("URI") String uri;
+    @Label("Servlet") String servletName;
+    @Label("Session Hit") boolean sessionHit;
+    @Label("Bytes Written") @DataAmount long bytesWritten;    // via getOutputStream()
+    @Label("Chars Written") long charsWritten;                // via getWriter()
+}
+
+@Name("com.example.Session")
+@Label("Session Lifecycle")
+@Category({"Web", "Session"})
+public class SessionEvent extends jdk.jfr.Event {
+    @Label("Action") String action;          // "created", "destroyed"
+    @Label("Session ID Prefix") String idPrefix;
+}
+```
+
+A filter mapped to **every dispatcher type** measures the whole request, each forward to a JSP (e.g. `welcome.jsp`) and each include:
+
+```java
+@WebFilter(urlPatterns = "/*", asyncSupported = true, dispatcherTypes = {
+    DispatcherType.REQUEST, DispatcherType.FORWARD, DispatcherType.INCLUDE
+})
+public class JfrFilter implements Filter {
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {                        // recording off: just continue
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        CountingResponse counting = new CountingResponse((HttpServletResponse) response);
+        event.begin();
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            if (req.isAsyncStarted()) {
+                // Async servlet: the real work finishes later, on another thread
+                req.getAsyncContext().addListener(new AsyncListener() {
+                    public void onComplete(AsyncEvent e) { finish(event, req, counting); }   // also fires after timeout/error
+                    public void onTimeout(AsyncEvent e) {}
+                    public void onError(AsyncEvent e) {}
+                    public void onStartAsync(AsyncEvent e) {}
+                });
+            } else {
+                finish(event, req, counting);
+            }
+        }
+    }
+
+    private static void finish(RequestEvent event, HttpServletRequest req, CountingResponse counting) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = req.getDispatcherType().name().toLowerCase();
+            event.uri = req.getRequestURI();
+            event.servletName = req.getHttpServletMapping().getServletName();
+            event.sessionHit = req.getRequestedSessionId() != null && req.isRequestedSessionIdValid();
+            event.bytesWritten = counting.bytes;
+            event.charsWritten = counting.chars;
+            event.commit();
+        }
+    }
+
+    public void init(FilterConfig config) {}
+    public void destroy() {}
+
+    // Wraps whatever the container hands out, so includes (whose getOutputStream() may throw) still work.
+    // Nothing is buffered here: every write goes straight through, so no output can be left behind.
+    static final class CountingResponse extends HttpServletResponseWrapper {
+        long bytes;
+        long chars;
+        private ServletOutputStream stream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) { super(response); }
+
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (stream == null) {
+                ServletOutputStream out = super.getOutputStream();
+                stream = new ServletOutputStream() {
+                    public void write(int b) throws IOException { out.write(b); bytes++; }
+                    public void write(byte[] b, int off, int len) throws IOException { out.write(b, off, len); bytes += len; }
+                    public void flush() throws IOException { out.flush(); }
+                    public boolean isReady() { return out.isReady(); }
+                    public void setWriteListener(WriteListener listener) { out.setWriteListener(listener); }
+                };
+            }
+            return stream;
+        }
+
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter out = super.getWriter();
+                writer = new PrintWriter(new Writer() {          // PrintWriter(Writer) has no buffer of its own
+                    public void write(int c) { out.write(c); chars++; }
+                    public void write(char[] buf, int off, int len) { out.write(buf, off, len); chars += len; }
+                    public void write(String str, int off, int len) { out.write(str, off, len); chars += len; }
+                    public void flush() { out.flush(); }
+                    public void close() { out.close(); }
+                });
+            }
+            return writer;
+        }
+    }
+}
+```
+
+Because filters run **in order**, put `JfrFilter` first in `web.xml`. The gap between its event and the servlet's own work is then the time spent in `AuthFilter` and other filters. Session events come from a listener:
+
+```java
+@WebListener
+public class JfrSessionListener implements HttpSessionListener {
+    public void sessionCreated(HttpSessionEvent se) { emit("created", se); }
+    public void sessionDestroyed(HttpSessionEvent se) { emit("destroyed", se); }
+
+    private void emit(String action, HttpSessionEvent se) {
+        SessionEvent event = new SessionEvent();
+        if (event.isEnabled()) {
+            event.action = action;
+            event.idPrefix = se.getSession().getId().substring(0, 6);   // never record full session IDs
+            event.commit();
+        }
+    }
+}
+```
+
+Record and view:
+
+```
+java -XX:StartFlightRecording=filename=app.jfr,settings=profile ...   # start Tomcat with recording on
+jfr print --events com.example.Request app.jfr
+```
+
+* To check the overhead, run the same load test with and without `-XX:StartFlightRecording` and compare throughput.
+
+---
+
 ### Use Cases Summary:
 
 | Use Case        | Example Filter Behavior                               |
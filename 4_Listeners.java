@@ -19,6 +19,7 @@ Excellent progress! Now let's move on to:
 | --------------------------------- | ------------------------------------ |
 | `ServletContextListener`          | App startup and shutdown             |
 | `HttpSessionListener`             | Session creation and destruction     |
+| `HttpSessionIdListener`           | Session ID change (`changeSessionId`) |
 | `ServletRequestListener`          | Request lifecycle                    |
 | `ServletContextAttributeListener` | Context attribute add/remove/replace |
 | `HttpSessionAttributeListener`    | Session attribute add/remove/replace |
@@ -44,6 +45,80 @@ public class AppStartupShutdownListener implements ServletContextListener {
 * `contextInitialized()` runs when the application is deployed.
 * `contextDestroyed()` runs on undeploy/server shutdown.
 
+#### Loading config once: one immutable snapshot
+
+Config is read on almost every request but changes rarely. Instead of many separate context attributes (`siteName`, `maxUpload`, `featureX`...), load it in `contextInitialized()` into **one immutable object** and publish the whole object at once:
+
+```java
+public final class AppConfig {
+    private final String siteName;
+    private final int maxUploadMb;
+    private final Map<String, Boolean> features;
+
+    public AppConfig(String siteName, int maxUploadMb, Map<String, Boolean> features) {
+        this.siteName = siteName;
+        this.maxUploadMb = maxUploadMb;
+        this.features = Map.copyOf(features);          // immutable: safe to share between threads
+    }
+
+    public String getSiteName() { return siteName; }
+    public int getMaxUploadMb() { return maxUploadMb; }
+    public Map<String, Boolean> getFeatures() { return features; }
+}
+```
+
+```java
+public final class ConfigHolder {
+    private static volatile AppConfig current;
+
+    private ConfigHolder() {}
+
+    public static AppConfig current() {
+        return current;                                 // lock-free read, always a complete snapshot
+    }
+
+    // Writers build a whole new snapshot and swap it in one step.
+    // synchronized: field and "config" attribute always change together, in the same order
+    public static synchronized void publish(ServletContext ctx, AppConfig next) {
+        current = next;
+        ctx.setAttribute("config", next);               // one attributeReplaced event, not one per setting
+    }
+
+    public static synchronized void update(ServletContext ctx, UnaryOperator<AppConfig> change) {
+        if (current == null) {
+            throw new IllegalStateException("Config not published yet");
+        }
+        publish(ctx, change.apply(current));
+    }
+}
+```
+
+```java
+@WebListener
+public class AppStartupShutdownListener implements ServletContextListener {
+    public void contextInitialized(ServletContextEvent sce) {
+        ServletContext ctx = sce.getServletContext();
+        ConfigHolder.publish(ctx, new AppConfig(
+                ctx.getInitParameter("siteName"),
+                Integer.parseInt(ctx.getInitParameter("maxUploadMb")),
+                Map.of("newDashboard", true)));
+        System.out.println("App Started");
+    }
+
+    public void contextDestroyed(ServletContextEvent sce) {
+        System.out.println("App Stopped");
+    }
+}
+```
+
+Read it in a servlet with `ConfigHolder.current().getSiteName()`, or in JSP with `${applicationScope.config.siteName}`.
+
+* Readers never lock and never see half-updated config: a snapshot is either fully old or fully new.
+* Writes are rare, so creating a new object per change is cheap.
+* Only writers lock. `publish()` and `update()` are `synchronized`, so two writers can't interleave and leave an older snapshot in the `"config"` attribute than in `current()`. A CAS alone can't give this guarantee, because the `setAttribute()` call runs after the swap.
+* `update()` needs a snapshot to start from. Before `contextInitialized()` has called `publish()`, it fails fast instead of passing `null` to the change function.
+* A `ServletContextAttributeListener` gets **one** `attributeReplaced` for `"config"` per update, instead of one event per setting.
+
 ---
 
 ### **3. Session Lifecycle Listener (`HttpSessionListener`)**
@@ -63,6 +138,132 @@ public class SessionMonitor implements HttpSessionListener {
 
 Use case: session counting, timeout tracking, logout logging.
 
+#### Slow cleanup in `sessionDestroyed()`
+
+`session.invalidate()` in `LogoutServlet` calls `sessionDestroyed()` and every attribute-removed / `valueUnbound` callback **on the request thread**. Timeouts call them on the container's background thread, and that thread handles all expired sessions one after another. If the cleanup writes audit logs, closes connections or calls other services, mass logouts or a timeout wave after a traffic peak block those threads.
+
+Keep the callback tiny: read what you need **now** (after the callback, the session is gone), and send the slow part to a background batcher:
+
+```java
+@WebListener
+public class SessionMonitor implements HttpSessionListener, ServletContextListener {
+    private static final int STRIPES = 4;
+    private static final int QUEUE_SIZE = 10_000;
+    private static final int BATCH_SIZE = 100;
+
+    // One queue + one worker thread per stripe: all work for one session lands on the same stripe, in order
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public void contextInitialized(ServletContextEvent sce) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe("session-cleanup-" + i);
+            stripes[i].start();
+        }
+    }
+
+    public void sessionCreated(HttpSessionEvent se) {
+        System.out.println("Session Created: " + se.getSession().getId());
+    }
+
+    public void sessionDestroyed(HttpSessionEvent se) {
+        HttpSession session = se.getSession();
+        String id = session.getId();
+        String username = (String) session.getAttribute("username");   // copy now, session is invalid afterwards
+
+        stripeFor(id).submit(new LogoutRecord(id, username));
+    }
+
+    private Stripe stripeFor(String sessionId) {
+        return stripes[Math.floorMod(sessionId.hashCode(), STRIPES)];
+    }
+
+    public void contextDestroyed(ServletContextEvent sce) {
+        for (Stripe stripe : stripes) {
+            stripe.stopAccepting();                                     // worker drains its queue, then exits
+        }
+        for (Stripe stripe : stripes) {
+            stripe.awaitStop();
+        }
+    }
+
+    record LogoutRecord(String sessionId, String username) {}
+
+    static final class Stripe implements Runnable {
+        private final BlockingQueue<LogoutRecord> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        private final Thread worker;
+        private volatile boolean accepting = true;
+
+        Stripe(String name) {
+            worker = new Thread(this, name);
+            worker.setDaemon(true);
+        }
+
+        void start() {
+            worker.start();
+        }
+
+        void submit(LogoutRecord record) {
+            if (!accepting) {
+                AuditLog.logout(List.of(record));                      // already shutting down: do it inline
+                return;
+            }
+            try {
+                queue.put(record);                                      // queue full: caller waits (backpressure, order kept)
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                AuditLog.logout(List.of(record));                       // don't drop it
+            }
+        }
+
+        @Override
+        public void run() {
+            List<LogoutRecord> batch = new ArrayList<>(BATCH_SIZE);
+            while (accepting || !queue.isEmpty()) {
+                try {
+                    LogoutRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);               // take whatever else is waiting, in order
+                    AuditLog.logout(batch);                             // one slow write per batch, not per session
+                } catch (InterruptedException e) {
+                    accepting = false;                                  // loop keeps draining, then exits
+                } catch (RuntimeException e) {
+                    e.printStackTrace();                                // one bad batch must not kill the stripe
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        void stopAccepting() {
+            accepting = false;
+        }
+
+        void awaitStop() {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<LogoutRecord> rest = new ArrayList<>();
+            queue.drainTo(rest);                                        // anything put after the worker's last check
+            if (!rest.isEmpty()) {
+                AuditLog.logout(rest);
+            }
+        }
+    }
+}
+```
+
+* Logout returns as soon as the session is removed; the slow cleanup happens later.
+* **Real batching**: the worker waits for one record, then `drainTo()` grabs up to 99 more, and `AuditLog.logout(batch)` writes them in one call (one multi-row insert instead of 100 round trips). Under a timeout wave, batches fill up by themselves; when it's quiet, a batch is just one record.
+* **Order per session is kept**: all records for one session ID go to the same stripe, and one thread handles that stripe's queue in FIFO order.
+* The queue is **bounded** – during a 100k-session expiry wave, memory doesn't explode. When it's full, `put()` blocks the calling thread until the worker catches up. This is backpressure that keeps the order. `CallerRunsPolicy` would not keep it, because the caller's task could run before older tasks that are still in the queue.
+* **Shutdown loses nothing**: `stopAccepting()` only stops new work from being queued. The worker keeps draining until its queue is empty, `awaitStop()` drains anything that arrived too late, and a `sessionDestroyed()` that comes after `stopAccepting()` writes its record inline. A plain `ExecutorService` silently rejects tasks after `shutdown()`.
+* Do the same for objects that implement `HttpSessionBindingListener`: `valueUnbound()` should only queue the close/cleanup, not do it.
+
 ---
 
 ### **4. Request Lifecycle Listener (`ServletRequestListener`)**
@@ -103,6 +304,37 @@ public class SessionAttributeLogger implements HttpSessionAttributeListener {
 }
 ```
 
+#### Keeping attribute listeners cheap
+
+An attribute listener runs on **every** `session.setAttribute()` in the application, on the request thread. The container only builds an `HttpSessionBindingEvent` when at least one attribute listener is registered, so:
+
+* Don't register an attribute listener "just in case" — with none registered, `setAttribute()` skips event creation entirely.
+* If you only care about a few attributes, check the name **first** and return before doing any work (string concatenation, logging, DB calls):
+
+```java
+@WebListener
+public class SessionAttributeLogger implements HttpSessionAttributeListener {
+    private static final Set<String> WATCHED = Set.of("username", "role");
+
+    public void attributeAdded(HttpSessionBindingEvent event) {
+        if (!WATCHED.contains(event.getName())) return;
+        System.out.println("Added to session: " + event.getName() + "=" + event.getValue());
+    }
+
+    public void attributeRemoved(HttpSessionBindingEvent event) {
+        if (!WATCHED.contains(event.getName())) return;
+        System.out.println("Removed from session: " + event.getName());
+    }
+
+    public void attributeReplaced(HttpSessionBindingEvent event) {
+        if (!WATCHED.contains(event.getName())) return;
+        System.out.println("Replaced in session: " + event.getName());
+    }
+}
+```
+
+* Several listeners watching different things? Merge them into **one** listener with one name check, instead of ten listeners each doing its own.
+
 ---
 
 ### **How to Use Listeners**
@@ -118,6 +350,89 @@ public class SessionAttributeLogger implements HttpSessionAttributeListener {
 
 ---
 
+### **Faster Startup: Avoiding the Annotation Scan**
+
+To find `@WebListener`, `@WebServlet` and `@WebFilter`, the container opens **every class in `WEB-INF/classes` and every JAR in `WEB-INF/lib`** at deploy time. In a big WAR this takes seconds.
+
+If `web.xml` already lists all components, tell the container to skip the scan:
+
+```xml
+<web-app xmlns="http://xmlns.jcp.org/xml/ns/javaee" version="4.0"
+         metadata-complete="true">
+
+    <!-- no web-fragment.jar / ServletContainerInitializer scanning in WEB-INF/lib -->
+    <absolute-ordering />
+
+    <listener>
+        <listener-class>com.example.AppStartupShutdownListener</listener-class>
+    </listener>
+    <listener>
+        <listener-class>com.example.SessionMonitor</listener-class>
+    </listener>
+    <listener>
+        <listener-class>com.example.RequestLogger</listener-class>
+    </listener>
+
+    <!-- everything that used @WebServlet / @WebFilter must be listed here too -->
+    <filter>
+        <filter-name>AuthFilter</filter-name>
+        <filter-class>com.example.AuthFilter</filter-class>
+        <async-supported>true</async-supported>
+    </filter>
+    <filter-mapping>
+        <filter-name>AuthFilter</filter-name>
+        <url-pattern>/dashboard</url-pattern>
+    </filter-mapping>
+
+    <servlet>
+        <servlet-name>LoginServlet</servlet-name>
+        <servlet-class>com.example.LoginServlet</servlet-class>
+        <async-supported>true</async-supported>
+    </servlet>
+    <servlet-mapping>
+        <servlet-name>LoginServlet</servlet-name>
+        <url-pattern>/login</url-pattern>
+    </servlet-mapping>
+
+    <servlet>
+        <servlet-name>DashboardServlet</servlet-name>
+        <servlet-class>com.example.DashboardServlet</servlet-class>
+        <async-supported>true</async-supported>
+    </servlet>
+    <servlet-mapping>
+        <servlet-name>DashboardServlet</servlet-name>
+        <url-pattern>/dashboard</url-pattern>
+    </servlet-mapping>
+</web-app>
+```
+
+* `metadata-complete="true"` – annotations are **ignored**, so `web.xml` becomes the index of all servlets, filters and listeners.
+* ⚠️ Any class you forget to list is **silently not deployed**. Forget `AuthFilter` and `/dashboard` is open without login; forget `LoginServlet` and `/login` returns 404. Check every `@WebServlet`, `@WebFilter` and `@WebListener` before switching this on.
+* `asyncSupported = true` on an annotation is ignored too. Every servlet that calls `startAsync()` (`LoginServlet`, `DashboardServlet`) and every filter in front of one (`AuthFilter`) needs `<async-supported>true</async-supported>`. Without it, `startAsync()` throws `IllegalStateException`.
+* `<absolute-ordering />` – the container no longer looks inside library JARs for fragments.
+
+In Tomcat, `metadata-complete` alone is not always enough: if a container `ServletContainerInitializer` declares `@HandlesTypes`, `WEB-INF/classes` is still scanned for it. The built-in WebSocket initializer (`WsSci`) does this. If the app doesn't use WebSocket, switch that initializer off in `META-INF/context.xml`:
+
+```xml
+<Context containerSciFilter="org\.apache\.tomcat\.websocket\.server\.WsSci" />
+```
+
+If you want to keep annotations, limit and parallelize the scan in Tomcat's `META-INF/context.xml` instead:
+
+```xml
+<Context parallelAnnotationScanning="true">
+    <JarScanner>
+        <!-- only scan our own JARs, skip third-party libraries -->
+        <JarScanFilter defaultPluggabilityScan="false"
+                       pluggabilityScan="myapp-*.jar" />
+    </JarScanner>
+</Context>
+```
+
+`parallelAnnotationScanning` spreads the class scan over the Server's utility executor. Its size is set by `utilityThreads` on `<Server>` in `server.xml`, not by the Host's `startStopThreads`.
+
+---
+
 ### Summary of Common Use Cases
 
 | Listener Type                  | Common Use Case                         |
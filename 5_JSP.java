@@ -139,6 +139,220 @@ Ye JSP page ka configuration set karta hai. Jaise:
 <%@ page errorPage="errorPage.jsp" %>
 ```
 
+### Slow page? Pehle `<head>` bhej do (early flush)
+
+By default JSP ka output ek buffer (8 KB) me jaata hai aur tab tak browser ko kuch nahi milta jab tak buffer full na ho ya page khatam na ho. Agar page me 300 ms ka DB call hai, browser utni der tak CSS/JS download bhi start nahi kar pata.
+
+Solution: header ke baad **flush** kar do. Flush hote hi response commit ho jaata hai aur container length pata na hone ki wajah se automatically **chunked transfer encoding** use karta hai.
+
+```jsp
+<%@ page language="java" contentType="text/html" buffer="8kb" autoFlush="true" %>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@ taglib uri="/WEB-INF/stream.tld" prefix="stream" %>
+
+<jsp:include page="header.jsp" flush="true" />
+<stream:flush />   <%-- <head>, CSS, JS links: turant browser tak --%>
+
+<%-- ab slow kaam --%>
+<c:forEach var="order" items="${orderService.recentOrders}">
+    ${order.id} - ${order.total}<br/>
+</c:forEach>
+
+<%@ include file="footer.jsp" %>
+```
+
+Scriptlet ke bina flush karne ke liye chhota sa tag:
+
+```java
+public class FlushTag extends SimpleTagSupport {
+    public void doTag() throws IOException {
+        getJspContext().getOut().flush();       // commits headers, sends buffered HTML as one chunk
+    }
+}
+```
+
+* `<jsp:include ... flush="true">` – include se **pehle** buffer flush karta hai; header ke baad explicit flush ke liye `<stream:flush/>` use karo.
+* `buffer` size page ke hisaab se chuno: chhota (`8kb`) streaming pages ke liye taaki chunks jaldi jaayein, bada (`32kb`) normal pages ke liye.
+* Dhyan do: `buffer` sirf JSP ka apna `out` buffer hai, container ka response buffer nahi. Container ka buffer (Tomcat me default 8 KB) full hote hi response chunked ban jaata hai. Agar poora page ek baar me `Content-Length` ke saath bhejna hai, to page ke shuru me (kuch bhi likhne se pehle) response buffer bhi bada karo: `<% response.setBufferSize(32 * 1024); %>`.
+* `buffer="none"` se packets nahi badhte (container ka response buffer phir bhi hai). Lekin JSP ka apna buffer chala jaata hai: `out` ka har write seedha response writer pe jaata hai. Jaise hi container ka 8 KB buffer bhar ke commit hota hai, baad me aaya exception `errorPage` pe forward nahi ho sakta, aur user ko aadha page milta hai. Isliye streaming ke liye bhi chhota buffer (`8kb`) + explicit flush better hai.
+* Flush ke baad response **committed** hai: `sendRedirect()`, `errorPage` forward ya headers set karna kaam nahi karega. Isliye redirect/login check flush se pehle hi kar lo.
+* Test: DB call me `Thread.sleep(300)` daalo aur `curl -w "%{time_starttransfer} %{time_total}\n" -o /dev/null -s URL` se time-to-first-byte aur total time compare karo.
+
+### JSON output – template text ki jagah streaming writer
+
+`contentType="application/json"` se JSP JSON bhej sakta hai, lekin template text + `${}` se JSON banana slow hai aur escaping (`"`, `\`, newline) me galti hona aasaan hai. Better: ek tag jo bean/list/map ko **seedha response writer me** likhe, bina beech me String ya tree banaye.
+
+```java
+public final class JsonWriter {
+
+    // Getters per class: sirf pehli baar introspect, phir cache se
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            try {
+                Map<String, MethodHandle> getters = new LinkedHashMap<>();
+                if (type.isRecord()) {                       // record me getX() nahi, component accessors hote hain
+                    for (RecordComponent rc : type.getRecordComponents()) {
+                        getters.put(rc.getName(), unreflect(rc.getAccessor()));
+                    }
+                    return getters;
+                }
+                for (PropertyDescriptor pd : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                    if (pd.getReadMethod() != null) {
+                        getters.put(pd.getName(), unreflect(pd.getReadMethod()));
+                    }
+                }
+                return getters;
+            } catch (IntrospectionException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    // publicLookup() non-public classes (package-private bean, private nested record) ke getters nahi de sakta;
+    // app ki classes same (unnamed) module me hain, isliye setAccessible + full lookup chal jaata hai
+    private static MethodHandle unreflect(Method getter) throws IllegalAccessException {
+        getter.trySetAccessible();
+        return MethodHandles.lookup().unreflect(getter);
+    }
+
+    private JsonWriter() {}
+
+    public static void write(Object value, Writer out) throws IOException {
+        write(value, out, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    // path = objects jo abhi likhe ja rahe hain (parent chain); same object dobara aaya to cycle hai
+    private static void write(Object value, Writer out, Set<Object> path) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof String || value instanceof Character) {
+            writeString(value.toString(), out);
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            out.write(Double.isFinite(d) ? value.toString() : "null");   // NaN/Infinity JSON me valid nahi
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof Enum) {
+            writeString(((Enum<?>) value).name(), out);                 // warna bean ban ke getDeclaringClass() pe atakta
+        } else {
+            if (!path.add(value)) {
+                throw new IllegalArgumentException("Cycle in JSON value: " + value.getClass().getName());
+            }
+            if (value instanceof Map) {
+                out.write('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                    if (!first) out.write(',');
+                    first = false;
+                    writeString(String.valueOf(e.getKey()), out);
+                    out.write(':');
+                    write(e.getValue(), out, path);
+                }
+                out.write('}');
+            } else if (value instanceof Iterable) {
+                out.write('[');
+                boolean first = true;
+                for (Object item : (Iterable<?>) value) {
+                    if (!first) out.write(',');
+                    first = false;
+                    write(item, out, path);
+                }
+                out.write(']');
+            } else if (value.getClass().isArray()) {
+                out.write('[');
+                int length = Array.getLength(value);                    // int[], String[], Object[] sab
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) out.write(',');
+                    write(Array.get(value, i), out, path);
+                }
+                out.write(']');
+            } else if (value instanceof Date) {
+                writeString(Instant.ofEpochMilli(((Date) value).getTime()).toString(), out);   // ISO-8601, java.sql.Date bhi
+            } else if (isValueType(value.getClass())) {
+                writeString(value.toString(), out);                    // UUID, LocalDate, Instant, URI, ...
+            } else {
+                writeBean(value, out, path);
+            }
+            path.remove(value);
+        }
+    }
+
+    // JDK ki classes (java.util.UUID, java.time.*, java.net.URI) bean nahi, value hain: unke getters internal state hain
+    private static boolean isValueType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    private static void writeBean(Object bean, Writer out, Set<Object> path) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (Map.Entry<String, MethodHandle> e : GETTERS.get(bean.getClass()).entrySet()) {
+            if (!first) out.write(',');
+            first = false;
+            writeString(e.getKey(), out);
+            out.write(':');
+            Object property;
+            try {
+                property = e.getValue().invoke(bean);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot read " + e.getKey(), t);
+            }
+            write(property, out, path);                         // getter ke try ke bahar: cycle error wrap na ho
+        }
+        out.write('}');
+    }
+
+    private static void writeString(String s, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                out.write(s, start, i - start);      // unescaped part, bina substring ke
+                switch (c) {
+                    case '"':  out.write("\\\""); break;
+                    case '\\': out.write("\\\\"); break;
+                    case '\n': out.write("\\n"); break;
+                    case '\r': out.write("\\r"); break;
+                    case '\t': out.write("\\t"); break;
+                    default:   out.write(String.format("\\u%04x", (int) c));
+                }
+                start = i + 1;
+            }
+        }
+        out.write(s, start, s.length() - start);
+        out.write('"');
+    }
+}
+```
+
+```java
+public class JsonTag extends SimpleTagSupport {
+    private Object value;
+
+    public void setValue(Object value) { this.value = value; }
+
+    public void doTag() throws IOException {
+        JsonWriter.write(value, getJspContext().getOut());
+    }
+}
+```
+
+```jsp
+<%@ page contentType="application/json; charset=UTF-8" trimDirectiveWhitespaces="true" %>
+<%@ taglib uri="/WEB-INF/json.tld" prefix="json" %>
+<json:write value="${productList}" />
+```
+
+* Har class ke getters **ek hi baar** dhoondhe jaate hain (`ClassValue` cache), har object pe reflection lookup nahi hota.
+* Output seedha page ke `JspWriter` buffer me jaata hai; 10k items ki list ke liye bhi poora JSON memory me String nahi banta.
+* Enum ko `name()` string, arrays (`int[]` bhi) ko JSON array, aur `NaN`/`Infinity` ko `null` likha jaata hai — warna output invalid JSON ban jaata.
+* Records apne components se likhe jaate hain (unme `getX()` nahi hota, warna `{}` aata). `UUID`, `java.time.*`, `URI` jaisi JDK value classes `toString()` se string banti hain, aur `Date` ISO-8601 `Instant` ban ke. Koi JDK class bean ki tarah nahi likhi jaati.
+* Getters `MethodHandles.lookup()` + `trySetAccessible()` se milte hain, isliye package-private beans aur private nested records bhi chalte hain. `publicLookup()` pe unke liye `IllegalAccessException` aata.
+* Cycle (jaise `parent.children` ke andar child ka `getParent()`) pe `StackOverflowError` ki jagah saaf `IllegalArgumentException` aata hai. Same object do alag jagah (cycle nahi) ho to dono baar likha jaata hai.
+* `trimDirectiveWhitespaces="true"` directives ke baad wali khaali lines hata deta hai, taaki JSON ke pehle extra whitespace na aaye.
+* Comparison ke liye: same 10k-item list ko ek reflection-based serializer (jo har call pe `getDeclaredFields()` karta hai) se likho aur dono ka throughput measure karo.
+
 ---
 
 ## ✅ 2. `<%@ include %>` – **Include Directive**
@@ -161,6 +375,104 @@ Socho tumhare 10 pages hain aur sab me same header/footer hai — to har page me
 
 📝 Note: Ye **compile time** pe include hota hai (matlab page translate hone se pehle hi code add ho jaata hai).
 
+### Fragment cache – header/footer ko har request pe render mat karo
+
+`include` sirf code copy karta hai — header/footer ka **output har request pe dobara banta hai**, chahe wo sab users ke liye same ho. Agar header me menu, DB se categories, etc. hain, to ye time waste hai.
+
+Ek chhota custom tag banao jo body ka rendered output cache kare:
+
+```java
+public class FragmentCacheTag extends SimpleTagSupport {
+    private static final long MAX_BYTES = 4 * 1024 * 1024;   // 4 MB total
+
+    private static final int ARRAY_HEADER = 16;                // char[] object header + length
+    private static final int ENTRY_OVERHEAD = 96;              // map node + Entry + key String objects (64-bit JVM)
+
+    private static final class Entry {
+        final String key;
+        final char[] html;          // char[] is always 2 bytes per char (a String may be 1 or 2 since Java 9)
+        final long expiresAt;
+
+        Entry(String key, char[] html, long expiresAt) {
+            this.key = key;
+            this.html = html;
+            this.expiresAt = expiresAt;
+        }
+
+        long bytes() {
+            // html exact; key counted as 2 bytes per char, which is the most a String can take
+            return ENTRY_OVERHEAD + ARRAY_HEADER + 2L * html.length + ARRAY_HEADER + 2L * key.length();
+        }
+    }
+
+    private static final LinkedHashMap<String, Entry> CACHE = new LinkedHashMap<>(64, 0.75f, true);
+    private static long usedBytes;
+
+    private String key;
+    private String varyBy = "";   // e.g. "${pageContext.request.locale}|${sessionScope.role}"
+    private int ttl = 60;         // seconds
+
+    public void setKey(String key) { this.key = key; }
+    public void setVaryBy(String varyBy) { this.varyBy = varyBy; }
+    public void setTtl(int ttl) { this.ttl = ttl; }
+
+    public void doTag() throws JspException, IOException {
+        String cacheKey = key + '|' + varyBy;
+        long now = System.currentTimeMillis();
+
+        Entry entry;
+        synchronized (CACHE) {
+            entry = CACHE.get(cacheKey);
+        }
+        if (entry == null || entry.expiresAt < now) {
+            CharArrayWriter body = new CharArrayWriter();
+            getJspBody().invoke(body);                        // render once
+            entry = new Entry(cacheKey, body.toCharArray(), now + ttl * 1000L);
+            put(entry, now);
+        }
+        getJspContext().getOut().write(entry.html, 0, entry.html.length);   // cached chars go straight to the page buffer
+    }
+
+    private static void put(Entry entry, long now) {
+        synchronized (CACHE) {
+            Entry old = CACHE.put(entry.key, entry);
+            if (old != null) usedBytes -= old.bytes();
+            usedBytes += entry.bytes();
+
+            Iterator<Entry> it = CACHE.values().iterator();   // oldest (least recently used) first
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.expiresAt < now || usedBytes > MAX_BYTES) {   // drop expired ones, then LRU until under the limit
+                    usedBytes -= e.bytes();
+                    it.remove();
+                }
+            }
+        }
+    }
+}
+```
+
+Use karo (body ke andar `<jsp:include>` — kyunki `<%@ include %>` to compile time pe hi code chipka deta hai):
+
+```jsp
+<%@ taglib uri="/WEB-INF/frag.tld" prefix="frag" %>
+
+<frag:cache key="header" varyBy="${pageContext.request.locale}|${sessionScope.role}" ttl="300">
+    <jsp:include page="header.jsp" />
+</frag:cache>
+
+<h1>Welcome to my website!</h1>
+
+<frag:cache key="footer" varyBy="${pageContext.request.locale}" ttl="3600">
+    <jsp:include page="footer.jsp" />
+</frag:cache>
+```
+
+* `varyBy` me sirf wo values daalo jinse output badalta hai (locale, role) — **username mat daalo**, warna har user ki alag copy banegi.
+* Cache size bytes me count hota hai: HTML `char[]` me rakha hai (hamesha 2 byte/char), key ko max size (2 byte/char) se gina jaata hai, aur har entry ke objects ka fixed overhead bhi jodte hain. Limit cross hone pe **sabse purani** entry hatti hai (LRU).
+* Har naye `put` pe expired entries bhi hata di jaati hain, taaki purana HTML LRU ka wait na kare.
+* Hit pe header.jsp chalta hi nahi — pehle se bana `char[]` seedha `out.write(html, 0, html.length)` se page buffer me copy hota hai, beech me koi String nahi banti.
+
 ---
 
 ## ✅ 3. `<%@ taglib %>` – **Tag Library Directive**
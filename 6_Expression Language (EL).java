@@ -127,6 +127,278 @@ EL is often used **inside JSTL** to provide logic or condition:
 
 ---
 
+### **8. Keep Scopes Small: One Object Instead of Many Attributes**
+
+Each scope (`pageScope`, `requestScope`, `sessionScope`, `applicationScope`) is backed by a hash map inside the container. Every `setAttribute()` adds a map entry object plus the key and value. With a few attributes per session and **a million sessions**, that overhead adds up.
+
+Instead of many separate session attributes:
+
+```java
+session.setAttribute("username", "john");
+session.setAttribute("role", "admin");
+session.setAttribute("locale", "en");
+session.setAttribute("theme", "dark");
+```
+
+store **one small immutable object**:
+
+```java
+public final class UserSession implements Serializable {
+    private final String username;
+    private final String role;
+    private final String locale;
+    private final String theme;
+
+    public UserSession(String username, String role, String locale, String theme) {
+        this.username = username;
+        this.role = role;
+        this.locale = locale;
+        this.theme = theme;
+    }
+
+    public String getUsername() { return username; }
+    public String getRole() { return role; }
+    public String getLocale() { return locale; }
+    public String getTheme() { return theme; }
+
+    // A change makes a new object; the old one is never modified
+    public UserSession withTheme(String theme) {
+        return new UserSession(username, role, locale, theme);
+    }
+}
+```
+
+```java
+session.setAttribute("user", new UserSession("john", "admin", "en", "dark"));
+
+// later, e.g. in a settings servlet
+UserSession user = (UserSession) session.getAttribute("user");
+session.setAttribute("user", user.withTheme("light"));     // replace, don't modify
+```
+
+```jsp
+Hello, ${sessionScope.user.username} (${sessionScope.user.role})
+```
+
+* One map entry per session instead of four: fewer objects, less memory per session.
+* Field reads are plain getter calls, no extra hashing or map lookup.
+* **Immutable** – two requests of the same session (two browser tabs) can read it at the same time without locks and never see a half-changed object.
+* Every change goes through **one** `setAttribute("user", ...)`. That fires one `attributeReplaced` instead of one event per field, and it's also how replicating session managers (e.g. Tomcat's `DeltaManager`) notice the change — a field changed in place would never reach the other nodes.
+* Use constant keys like `"user"`. String literals are interned by the JVM, so every session shares the same key object.
+* Keep it `Serializable` so sessions can still be persisted or replicated.
+
+---
+
+### **9. Reading One Header or Cookie Without Building a Map**
+
+`${param.x}`, `${header.x}`, `${cookie.x}` and `${paramValues.x}` look like maps. Depending on the container, the first use on a page can build the **whole map**. `cookie` in particular copies every cookie of the request just to return one. On a page that needs one header and one cookie, that work is wasted.
+
+A small EL function library can go straight to the request for a single key:
+
+```java
+package com.example.el;
+
+public final class RequestFunctions {
+    private RequestFunctions() {}
+
+    public static String header(HttpServletRequest request, String name) {
+        return request.getHeader(name);                 // single lookup, nothing copied
+    }
+
+    public static String cookie(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie c : cookies) {
+                if (c.getName().equals(name)) return c.getValue();
+            }
+        }
+        return null;
+    }
+
+    public static String param(HttpServletRequest request, String name) {
+        return request.getParameter(name);
+    }
+}
+```
+
+`WEB-INF/req.tld`:
+
+```xml
+<taglib version="2.1">
+    <tlib-version>1.0</tlib-version>
+    <short-name>req</short-name>
+    <uri>http://example.com/req</uri>
+    <function>
+        <name>header</name>
+        <function-class>com.example.el.RequestFunctions</function-class>
+        <function-signature>java.lang.String header(javax.servlet.http.HttpServletRequest, java.lang.String)</function-signature>
+    </function>
+    <function>
+        <name>cookie</name>
+        <function-class>com.example.el.RequestFunctions</function-class>
+        <function-signature>java.lang.String cookie(javax.servlet.http.HttpServletRequest, java.lang.String)</function-signature>
+    </function>
+    <function>
+        <name>param</name>
+        <function-class>com.example.el.RequestFunctions</function-class>
+        <function-signature>java.lang.String param(javax.servlet.http.HttpServletRequest, java.lang.String)</function-signature>
+    </function>
+</taglib>
+```
+
+```jsp
+<%@ taglib uri="http://example.com/req" prefix="req" %>
+
+Browser: ${req:header(pageContext.request, 'User-Agent')}
+Your session ID: ${req:cookie(pageContext.request, 'JSESSIONID')}
+```
+
+* Same result as `${header['User-Agent']}` and `${cookie.JSESSIONID.value}`, but only the requested key is looked up.
+* The container already parses cookies once per request; the loop just scans that array.
+
+---
+
+### **10. Warming Up Bean Metadata at Startup**
+
+The first time `<jsp:useBean>` or `${user.name}` meets a class, the container runs **`java.beans.Introspector`** on it to find getters and setters. That is slow, so the first request for each page with a new bean type is noticeably slower.
+
+Do that work once at startup, on a background thread, and keep the result as **`MethodHandle`s**:
+
+```java
+public final class BeanRegistry {
+
+    public static final class Accessors {
+        final Map<String, MethodHandle> getters;
+        final Map<String, MethodHandle> setters;
+
+        Accessors(Map<String, MethodHandle> getters, Map<String, MethodHandle> setters) {
+            this.getters = getters;
+            this.setters = setters;
+        }
+    }
+
+    private static final ConcurrentHashMap<Class<?>, Accessors> REGISTRY = new ConcurrentHashMap<>();
+
+    private BeanRegistry() {}
+
+    public static void register(Class<?> type) {
+        REGISTRY.computeIfAbsent(type, BeanRegistry::introspect);
+        try {
+            // Without a stop class this call goes through Introspector's own BeanInfo cache,
+            // which is what <jsp:useBean>/<jsp:setProperty> use - so that cache is warm too
+            Introspector.getBeanInfo(type);
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Cannot introspect " + type.getName(), e);
+        }
+    }
+
+    public static Accessors find(Class<?> type) {
+        return REGISTRY.get(type);        // null = not registered, let the normal resolver handle it
+    }
+
+    private static Accessors introspect(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Map<String, MethodHandle> getters = new HashMap<>();
+            Map<String, MethodHandle> setters = new HashMap<>();
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                if (pd.getReadMethod() != null) getters.put(pd.getName(), lookup.unreflect(pd.getReadMethod()));
+                if (pd.getWriteMethod() != null) setters.put(pd.getName(), lookup.unreflect(pd.getWriteMethod()));
+            }
+            return new Accessors(Map.copyOf(getters), Map.copyOf(setters));
+        } catch (IntrospectionException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot introspect " + type.getName(), e);
+        }
+    }
+}
+```
+
+An EL resolver that uses the registry, so `${user.name}` becomes a direct `MethodHandle` call:
+
+```java
+public class RegistryELResolver extends ELResolver {
+
+    public Object getValue(ELContext context, Object base, Object property) {
+        if (base == null || !(property instanceof String)) return null;
+        BeanRegistry.Accessors accessors = BeanRegistry.find(base.getClass());
+        MethodHandle getter = (accessors == null) ? null : accessors.getters.get(property);
+        if (getter == null) return null;                  // not ours, next resolver tries
+        context.setPropertyResolved(base, property);
+        try {
+            return getter.invoke(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+        if (base == null || !(property instanceof String)) return;
+        BeanRegistry.Accessors accessors = BeanRegistry.find(base.getClass());
+        MethodHandle setter = (accessors == null) ? null : accessors.setters.get(property);
+        if (setter == null) return;
+        context.setPropertyResolved(base, property);
+        try {
+            setter.invoke(base, value);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    public Class<?> getType(ELContext context, Object base, Object property) { return null; }
+    public boolean isReadOnly(ELContext context, Object base, Object property) { return false; }
+    public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) { return null; }
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        return (base != null && BeanRegistry.find(base.getClass()) != null) ? Object.class : null;   // only registered beans
+    }
+}
+```
+
+Fill the registry at startup from a context parameter and plug in the resolver:
+
+```xml
+<context-param>
+    <param-name>beanClasses</param-name>
+    <param-value>com.model.User,com.model.Product,com.model.Order</param-value>
+</context-param>
+```
+
+```java
+@WebListener
+public class BeanWarmupListener implements ServletContextListener {
+    public void contextInitialized(ServletContextEvent sce) {
+        ServletContext ctx = sce.getServletContext();
+        JspFactory.getDefaultFactory().getJspApplicationContext(ctx).addELResolver(new RegistryELResolver());
+
+        String param = ctx.getInitParameter("beanClasses");
+        String[] names = (param == null) ? new String[0] : param.split(",");   // no param: nothing to warm up
+        ClassLoader loader = ctx.getClassLoader();
+        Thread warmup = new Thread(() -> {
+            for (String name : names) {
+                if (name.isBlank()) continue;
+                try {
+                    BeanRegistry.register(Class.forName(name.trim(), true, loader));
+                } catch (ClassNotFoundException e) {
+                    ctx.log("Bean warmup: class not found " + name, e);
+                } catch (RuntimeException e) {
+                    ctx.log("Bean warmup: cannot register " + name, e);   // skip this class, keep going
+                }
+            }
+        }, "bean-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    public void contextDestroyed(ServletContextEvent sce) {}
+}
+```
+
+* Startup doesn't wait: the app is available immediately, and the warmup finishes in the background.
+* `register()` also calls `Introspector.getBeanInfo(type)` **without a stop class**. Only that form is cached by `Introspector` (calls with a stop class like `Object.class` are recomputed every time), and it's the form `<jsp:setProperty>` uses, so the first request skips the slow introspection there too. The cache is per thread group; the warmup thread is started from the container's thread, so it shares the same group.
+* Classes not listed in `beanClasses` still work — they just go through the normal bean resolver.
+* One bad entry doesn't stop the rest. If a class is missing or `register()` rejects it, the error is logged with `ctx.log` and the loop moves on to the next class. Without the `beanClasses` parameter, the resolver is still added and nothing is warmed up.
+
+---
+
 ### Summary
 
 | Feature              | Old JSP Way            | EL Way                 |
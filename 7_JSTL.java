@@ -145,6 +145,102 @@ You can also format currency:
 
 ---
 
+### **6. XML Tags on Large Documents (Streaming)**
+
+`<x:parse>` reads the **whole document into a DOM** before `<x:forEach>` or `<x:out>` evaluates any XPath. For small config files that's fine, but for a multi-megabyte feed the page holds the full tree in memory and can't print anything until parsing is finished.
+
+For simple paths like `/rss/channel/item` you can use a small custom tag built on **StAX** (`javax.xml.stream`). It reads the document **once, top to bottom**, and only keeps the current item in memory:
+
+```java
+import java.io.*;
+import java.util.*;
+import javax.servlet.jsp.*;
+import javax.servlet.jsp.tagext.SimpleTagSupport;
+import javax.xml.stream.*;
+
+public class StreamForEachTag extends SimpleTagSupport {
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        // Feeds come from outside: no DTDs, no external entities (XXE)
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private String source;   // file path of the XML on the server
+    private String select;   // simple absolute path, e.g. /rss/channel/item
+    private String var;
+
+    public void setSource(String source) { this.source = source; }
+    public void setSelect(String select) { this.select = select; }
+    public void setVar(String var) { this.var = var; }
+
+    public void doTag() throws JspException, IOException {
+        String[] steps = select.substring(1).split("/");
+        Deque<String> path = new ArrayDeque<>();
+        Map<String, String> item = null;
+        StringBuilder text = new StringBuilder();
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(source))) {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        path.addLast(reader.getLocalName());
+                        if (item == null && matches(path, steps)) {
+                            item = new HashMap<>();
+                        }
+                        text.setLength(0);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                        text.append(reader.getText());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (item != null && matches(path, steps)) {
+                            getJspContext().setAttribute(var, item);
+                            getJspBody().invoke(null);   // print this item right away
+                            item = null;
+                        } else if (item != null) {
+                            item.put(reader.getLocalName(), text.toString().trim());
+                        }
+                        path.removeLast();
+                        break;
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new JspException(e);
+        }
+    }
+
+    private static boolean matches(Deque<String> path, String[] steps) {
+        if (path.size() != steps.length) return false;
+        int i = 0;
+        for (String name : path) {
+            if (!name.equals(steps[i++])) return false;
+        }
+        return true;
+    }
+}
+```
+
+Register it in `WEB-INF/feed.tld` and use it like `<x:forEach>`:
+
+```jsp
+<%@ taglib uri="/WEB-INF/feed.tld" prefix="feed" %>
+
+<feed:forEach source="/data/news.xml" select="/rss/channel/item" var="item">
+  <c:out value="${item.title}"/><br/>
+</feed:forEach>
+```
+
+* Memory stays **bounded by one item**, not by the file size.
+* Output starts as soon as the **first item** is parsed.
+* DTDs and external entities are switched off, so a hostile feed can't read server files (XXE).
+* Only **simple child paths** are supported — for predicates, axes or functions keep using `<x:parse>` with a DOM.
+
+---
+
 ### Summary Table
 
 | Tag             | Purpose                         | Example                            |